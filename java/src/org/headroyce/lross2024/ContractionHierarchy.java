@@ -0,0 +1,728 @@
+package org.headroyce.lross2024;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * contraction hierarchy index which answers shortest path queries between any 2 nodes of a graph
+ * (nodes are contracted one at a time, and shortcut edges are added so the distances between the remaining nodes stay the same)
+ */
+public class ContractionHierarchy implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    //max number of nodes a witness search looks at before giving up (the shortcut is added anyways, which is always safe)
+    private static final int WITNESS_LIMIT = 50;
+    //smaller limit used when working out how important a node is (its only an estimate, and it gets redone every time a neighbor is contracted)
+    private static final int PRIORITY_LIMIT = 10;
+
+    //types of edge weight an index can be saved and loaded with (save() turns down anything else so load() never sees it)
+    private static final Set<Class<?>> WEIGHT_CLASSES = Set.of(
+            Integer.class, Long.class, Double.class, Float.class, Short.class, Byte.class, BigInteger.class, BigDecimal.class);
+    //other classes load() will read (HashMap checks its table as a Map.Entry array, and every weight type is read along with its superclass Number)
+    private static final Set<Class<?>> SAVED_CLASSES = Set.of(
+            ContractionHierarchy.class, Arc.class, HashMap.class, Map.Entry.class, String.class, Number.class);
+
+    //label of each node (index = node id)
+    private String[] labels;
+    //key = label, value = node id
+    private HashMap<String, Integer> ids;
+    //edges pointing from each node to a node with a higher rank
+    private int[][] upTargets;
+    private double[][] upWeights;
+    //edges pointing to each node from a node with a higher rank (so the backward search can also go "up")
+    private int[][] downSources;
+    private double[][] downWeights;
+    //key = from id and to id packed together (see key()), value = original edge or shortcut between them
+    private HashMap<Long, Arc> arcs;
+
+    /**
+     * builds the index from all the numerical edges of a graph (other edges are ignored, just like shortest_path)
+     *
+     * @param graph graph to preprocess
+     */
+    public ContractionHierarchy(Graph<?, ?> graph) {
+        ArrayList<String> graph_labels = graph.getLabels();
+        int n = graph_labels.size();
+        labels = graph_labels.toArray(new String[0]);
+        ids = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            ids.put(labels[i], i);
+        }
+        arcs = new HashMap<>();
+
+        //edges between the nodes that havent been contracted yet
+        Neighbors out = new Neighbors(n);
+        Neighbors in = new Neighbors(n);
+        for (int from = 0; from < n; from++) {
+            LinkedHashMap<String, Number> edges = graph.getNumericEdges(labels[from]);
+            for (String to_label : edges.keySet()) {
+                int to = ids.get(to_label);
+                //loops are never part of a shortest path
+                if (to == from) continue;
+                Number num = edges.get(to_label);
+                out.put(from, to, num.doubleValue());
+                in.put(to, from, num.doubleValue());
+                arcs.put(key(from, to), new Arc(-1, num));
+            }
+        }
+
+        upTargets = new int[n][];
+        upWeights = new double[n][];
+        downSources = new int[n][];
+        downWeights = new double[n][];
+
+        //number of neighbors each node has lost to contraction (keeps the contraction spread out across the graph)
+        int[] deleted = new int[n];
+        int[] priority = new int[n];
+        boolean[] in_round = new boolean[n];
+        ArrayList<Integer> remaining = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            remaining.add(i);
+        }
+        //search state for each thread doing witness searches
+        ThreadLocal<Witness> witnesses = ThreadLocal.withInitial(() -> new Witness(n));
+        //nodes whose importance has to be worked out again (only the neighbors of contracted nodes change)
+        boolean[] changed = new boolean[n];
+        Arrays.fill(changed, true);
+
+        while (!remaining.isEmpty()) {
+            int[] round = remaining.stream().mapToInt(Integer::intValue).toArray();
+            int[] update = Arrays.stream(round).filter(v -> changed[v]).toArray();
+
+            //work out how important each node is (witness searches only read the graph, so this runs in parallel)
+            IntStream.range(0, update.length).parallel().forEach(i -> {
+                int v = update[i];
+                priority[v] = findShortcuts(v, out, in, null, witnesses.get(), PRIORITY_LIMIT).size() - in.size(v) - out.size(v) + deleted[v];
+                changed[v] = false;
+            });
+
+            //contract every node that is less important than all of its neighbors (none of them touch, so they can go at once)
+            int[] selected = Arrays.stream(round).parallel().filter(v -> {
+                for (int i = 0; i < out.size(v); i++) {
+                    if (!before(v, out.id(v, i), priority)) return false;
+                }
+                for (int i = 0; i < in.size(v); i++) {
+                    if (!before(v, in.id(v, i), priority)) return false;
+                }
+                return true;
+            }).toArray();
+            for (int v : selected) {
+                in_round[v] = true;
+            }
+
+            //witness searches skip every node in this round, otherwise 2 nodes could each rely on a path through the other
+            List<ArrayList<Shortcut>> shortcuts = Arrays.stream(selected).parallel()
+                    .mapToObj(v -> findShortcuts(v, out, in, in_round, witnesses.get(), WITNESS_LIMIT))
+                    .collect(Collectors.toList());
+
+            //now remove the contracted nodes, keeping their edges to the rest of the graph as "up" edges (everything left is ranked higher)
+            for (int v : selected) {
+                upTargets[v] = Arrays.copyOf(out.ids[v], out.size(v));
+                upWeights[v] = Arrays.copyOf(out.weights[v], out.size(v));
+                downSources[v] = Arrays.copyOf(in.ids[v], in.size(v));
+                downWeights[v] = Arrays.copyOf(in.weights[v], in.size(v));
+                for (int w : upTargets[v]) {
+                    in.remove(w, v);
+                    deleted[w]++;
+                    changed[w] = true;
+                }
+                for (int u : downSources[v]) {
+                    out.remove(u, v);
+                    deleted[u]++;
+                    changed[u] = true;
+                }
+                out.clear(v);
+                in.clear(v);
+            }
+
+            //add the shortcuts (only if they are shorter than an edge thats already there)
+            for (ArrayList<Shortcut> list : shortcuts) {
+                for (Shortcut s : list) {
+                    if (s.weight < out.get(s.from, s.to)) {
+                        out.put(s.from, s.to, s.weight);
+                        in.put(s.to, s.from, s.weight);
+                        arcs.put(key(s.from, s.to), new Arc(s.via, null));
+                    }
+                }
+            }
+
+            ArrayList<Integer> left = new ArrayList<>();
+            for (int v : remaining) {
+                if (!in_round[v]) left.add(v);
+            }
+            remaining = left;
+        }
+    }
+
+    /**
+     * finds the shortest path between 2 nodes with a bidirectional search that only goes up the hierarchy
+     * (the forward and backward searches take turns, whichever has the closer node goes next)
+     *
+     * @param from_label label of node to start at
+     * @param to_label   label of node to end at
+     * @return null if no such path exists or incorrect inputs, a map of each label in order and the weight of the edge leaving it otherwise (same as Graph.shortest_path)
+     */
+    public LinkedHashMap<String, Number> shortest_path(String from_label, String to_label) {
+        Integer from = ids.get(from_label);
+        Integer to = ids.get(to_label);
+        if (from == null || to == null) {
+            return null;
+        }
+
+        Search forward = new Search(from);
+        Search backward = new Search(to);
+        double best = Double.POSITIVE_INFINITY;
+        int meet = -1;
+
+        boolean done = false;
+        while (!done) {
+            //a direction is finished once its closest node is further away than the best path found so far
+            boolean forward_done = forward.queue.isEmpty() || forward.queue.peek()[0] >= best;
+            boolean backward_done = backward.queue.isEmpty() || backward.queue.peek()[0] >= best;
+            if (forward_done && backward_done) {
+                done = true;
+            } else {
+                //step whichever direction has the closer node, so both sides grow together and can prune each other
+                boolean go_forward = backward_done || (!forward_done && forward.queue.peek()[0] <= backward.queue.peek()[0]);
+                Search curr = go_forward ? forward : backward;
+                Search other = go_forward ? backward : forward;
+                int v = go_forward ? forward.step(upTargets, upWeights) : backward.step(downSources, downWeights);
+                if (v != -1 && other.dist.containsKey(v)) {
+                    double length = curr.dist.get(v) + other.dist.get(v);
+                    if (length < best) {
+                        best = length;
+                        meet = v;
+                    }
+                }
+            }
+        }
+        if (meet == -1) {
+            //no path exists
+            return null;
+        }
+
+        //back-track from the meeting point to both ends
+        ArrayList<Integer> path = new ArrayList<>();
+        int temp = meet;
+        while (temp != from) {
+            path.add(temp);
+            temp = forward.parent.get(temp);
+        }
+        path.add(from);
+        Collections.reverse(path);
+        temp = meet;
+        while (temp != to) {
+            temp = backward.parent.get(temp);
+            path.add(temp);
+        }
+
+        //unpack the shortcuts back into the original edges
+        ArrayList<Integer> unpacked = new ArrayList<>();
+        ArrayList<Number> weights = new ArrayList<>();
+        for (int i = 0; i < path.size() - 1; i++) {
+            ArrayDeque<int[]> stack = new ArrayDeque<>();
+            stack.push(new int[]{path.get(i), path.get(i + 1)});
+            while (!stack.isEmpty()) {
+                int[] pair = stack.pop();
+                Arc arc = arcs.get(key(pair[0], pair[1]));
+                if (arc.via == -1) {
+                    unpacked.add(pair[0]);
+                    weights.add(arc.data);
+                } else {
+                    stack.push(new int[]{arc.via, pair[1]});
+                    stack.push(new int[]{pair[0], arc.via});
+                }
+            }
+        }
+        unpacked.add(to);
+        weights.add(0);
+
+        //cut out any loops (they can only have a weight of 0, so the length stays the same)
+        LinkedHashMap<String, Number> rtn = new LinkedHashMap<>();
+        ArrayList<String> order = new ArrayList<>();
+        for (int i = 0; i < unpacked.size(); i++) {
+            String label = labels[unpacked.get(i)];
+            if (rtn.containsKey(label)) {
+                while (!order.get(order.size() - 1).equals(label)) {
+                    rtn.remove(order.remove(order.size() - 1));
+                }
+                rtn.replace(label, weights.get(i));
+            } else {
+                rtn.put(label, weights.get(i));
+                order.add(label);
+            }
+        }
+        return rtn;
+    }
+
+    /**
+     * saves this index to a file so it can be loaded without preprocessing again
+     *
+     * @param file file to write to
+     * @throws IOException if the file cant be written or an edge weight isnt one of the types load() can read
+     */
+    public void save(File file) throws IOException {
+        //check before opening the file, so a bad weight doesnt leave half an index behind
+        for (Arc arc : arcs.values()) {
+            if (arc.data != null && !WEIGHT_CLASSES.contains(arc.data.getClass())) {
+                throw new NotSerializableException("cant save edge weights of type " + arc.data.getClass().getName());
+            }
+        }
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeObject(this);
+        }
+    }
+
+    /**
+     * loads an index that was saved with save()
+     *
+     * @param file file to read from
+     * @return the saved index
+     * @throws IOException if the file cant be read or doesnt hold an index
+     */
+    public static ContractionHierarchy load(File file) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            //only let through the classes an index is made of, so a bad file cant build anything else
+            in.setObjectInputFilter(info -> {
+                Class<?> c = info.serialClass();
+                if (c == null) return ObjectInputFilter.Status.UNDECIDED;
+                while (c.isArray()) c = c.getComponentType();
+                if (c.isPrimitive() || SAVED_CLASSES.contains(c) || WEIGHT_CLASSES.contains(c)) return ObjectInputFilter.Status.ALLOWED;
+                return ObjectInputFilter.Status.REJECTED;
+            });
+            return (ContractionHierarchy) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("file does not contain a contraction hierarchy", e);
+        }
+    }
+
+    /**
+     * finds the shortcuts needed to contract a node (a witness search looks for another path that is just as short)
+     *
+     * @param v        node to contract
+     * @param out      edges pointing from each remaining node
+     * @param in       edges pointing to each remaining node
+     * @param excluded nodes the witness search cant go through (null if none)
+     * @param witness  reusable search state for this thread
+     * @param limit    max number of nodes each witness search looks at
+     * @return list of shortcuts to add
+     */
+    private static ArrayList<Shortcut> findShortcuts(int v, Neighbors out, Neighbors in, boolean[] excluded, Witness witness, int limit) {
+        ArrayList<Shortcut> rtn = new ArrayList<>();
+        double max_out = 0;
+        for (int i = 0; i < out.size(v); i++) {
+            max_out = Math.max(max_out, out.weight(v, i));
+        }
+
+        for (int j = 0; j < in.size(v); j++) {
+            int u = in.id(v, j);
+            double max_length = in.weight(v, j) + max_out;
+
+            //dijkstra from u that avoids v (and stops once its past the longest possible shortcut)
+            witness.start(u);
+            //number of v's neighbors the search still needs to reach (it can stop early once theyre all settled)
+            int targets = witness.markTargets(out, v);
+            int settled = 0;
+            while (witness.size > 0 && settled < limit && targets > 0) {
+                double length = witness.topLength();
+                int curr = witness.poll();
+                if (length > max_length) break;
+                //skip entries that were replaced by a shorter length
+                if (length > witness.dist[curr]) continue;
+                settled++;
+                if (witness.isTarget(curr)) targets--;
+                for (int i = 0; i < out.size(curr); i++) {
+                    int w = out.id(curr, i);
+                    if (w == v || (excluded != null && excluded[w])) continue;
+                    witness.relax(w, length + out.weight(curr, i));
+                }
+            }
+
+            for (int i = 0; i < out.size(v); i++) {
+                int w = out.id(v, i);
+                if (w == u) continue;
+                double length = in.weight(v, j) + out.weight(v, i);
+                if (witness.dist[w] > length) {
+                    rtn.add(new Shortcut(u, w, v, length));
+                }
+            }
+        }
+        return rtn;
+    }
+
+    /**
+     * checks if a node should be contracted before its neighbor (ties go to the smaller id)
+     *
+     * @param v        node to check
+     * @param w        neighbor of the node
+     * @param priority importance of each node
+     * @return true if v goes first, false otherwise
+     */
+    private static boolean before(int v, int w, int[] priority) {
+        return priority[v] < priority[w] || (priority[v] == priority[w] && v < w);
+    }
+
+    /**
+     * packs 2 node ids into a single key
+     *
+     * @param from id of node the edge points from
+     * @param to   id of node the edge points to
+     * @return key for the edge
+     */
+    private long key(int from, int to) {
+        //from * n + to (instead of packing into the high and low bits, which would make every key's hash from ^ to)
+        return (long) from * labels.length + to;
+    }
+
+    /**
+     * edge of the hierarchy, which is either an original edge or a shortcut through another node
+     */
+    private static class Arc implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        //node the shortcut goes through (-1 if its an original edge)
+        private int via;
+        //weight of the original edge (null for shortcuts)
+        private Number data;
+
+        /**
+         * constructs a new arc
+         *
+         * @param via  node the shortcut goes through, -1 for an original edge
+         * @param data weight of the original edge
+         */
+        public Arc(int via, Number data) {
+            this.via = via;
+            this.data = data;
+        }
+    }
+
+    /**
+     * edges of every node stored in plain arrays (nodes only have a few neighbors, so looking one up is a short scan)
+     */
+    private static class Neighbors {
+        //ids[u][i] is the i-th neighbor of u and weights[u][i] is the weight of the edge to it
+        private int[][] ids;
+        private double[][] weights;
+        private int[] sizes;
+
+        /**
+         * constructs a new list of edges with no edges
+         *
+         * @param n number of nodes
+         */
+        public Neighbors(int n) {
+            ids = new int[n][4];
+            weights = new double[n][4];
+            sizes = new int[n];
+        }
+
+        /**
+         * gets the number of neighbors a node has
+         *
+         * @param u node to check
+         * @return number of neighbors
+         */
+        public int size(int u) {
+            return sizes[u];
+        }
+
+        /**
+         * gets one of a node's neighbors
+         *
+         * @param u node to check
+         * @param i index of the neighbor
+         * @return id of the neighbor
+         */
+        public int id(int u, int i) {
+            return ids[u][i];
+        }
+
+        /**
+         * gets the weight of the edge to one of a node's neighbors
+         *
+         * @param u node to check
+         * @param i index of the neighbor
+         * @return weight of the edge
+         */
+        public double weight(int u, int i) {
+            return weights[u][i];
+        }
+
+        /**
+         * gets the weight of the edge between 2 nodes
+         *
+         * @param u node the edge is from
+         * @param w node the edge goes to
+         * @return weight of the edge, infinity if there isnt one
+         */
+        public double get(int u, int w) {
+            for (int i = 0; i < sizes[u]; i++) {
+                if (ids[u][i] == w) return weights[u][i];
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * adds an edge, or changes its weight if its already there
+         *
+         * @param u      node the edge is from
+         * @param w      node the edge goes to
+         * @param weight weight of the edge
+         */
+        public void put(int u, int w, double weight) {
+            for (int i = 0; i < sizes[u]; i++) {
+                if (ids[u][i] == w) {
+                    weights[u][i] = weight;
+                    return;
+                }
+            }
+            if (sizes[u] == ids[u].length) {
+                ids[u] = Arrays.copyOf(ids[u], sizes[u] * 2);
+                weights[u] = Arrays.copyOf(weights[u], sizes[u] * 2);
+            }
+            ids[u][sizes[u]] = w;
+            weights[u][sizes[u]] = weight;
+            sizes[u]++;
+        }
+
+        /**
+         * removes an edge if its there (the last edge takes its spot)
+         *
+         * @param u node the edge is from
+         * @param w node the edge goes to
+         */
+        public void remove(int u, int w) {
+            for (int i = 0; i < sizes[u]; i++) {
+                if (ids[u][i] == w) {
+                    sizes[u]--;
+                    ids[u][i] = ids[u][sizes[u]];
+                    weights[u][i] = weights[u][sizes[u]];
+                    return;
+                }
+            }
+        }
+
+        /**
+         * removes every edge from a node
+         *
+         * @param u node to clear
+         */
+        public void clear(int u) {
+            sizes[u] = 0;
+        }
+    }
+
+    /**
+     * search state for witness searches that gets reused instead of being made again for every search
+     * (each thread gets its own, since they run in parallel)
+     */
+    private static class Witness {
+        //shortest length found to each node (infinity if it hasnt been reached)
+        private double[] dist;
+        //nodes whose dist was changed, so only those have to be reset
+        private int[] touched;
+        private int touched_count;
+        //binary min-heap of lengths and the node each one is for
+        private double[] heap_lengths;
+        private int[] heap_nodes;
+        private int size;
+        //mark[w] == stamp if w is a neighbor the current search is looking for
+        private int[] mark;
+        private int stamp;
+
+        /**
+         * constructs new search state
+         *
+         * @param n number of nodes in the graph
+         */
+        public Witness(int n) {
+            dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            touched = new int[16];
+            heap_lengths = new double[16];
+            heap_nodes = new int[16];
+            mark = new int[n];
+        }
+
+        /**
+         * marks the nodes a node points to as the ones the current search is looking for
+         *
+         * @param out edges pointing from each remaining node
+         * @param v   node being contracted
+         * @return number of nodes marked
+         */
+        public int markTargets(Neighbors out, int v) {
+            stamp++;
+            for (int i = 0; i < out.size(v); i++) {
+                mark[out.id(v, i)] = stamp;
+            }
+            return out.size(v);
+        }
+
+        /**
+         * checks if a node is one the current search is looking for
+         *
+         * @param w node to check
+         * @return true if it was marked, false otherwise
+         */
+        public boolean isTarget(int w) {
+            return mark[w] == stamp;
+        }
+
+        /**
+         * clears the last search and starts a new one
+         *
+         * @param start node to start from
+         */
+        public void start(int start) {
+            for (int i = 0; i < touched_count; i++) {
+                dist[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+            touched_count = 0;
+            size = 0;
+            relax(start, 0);
+        }
+
+        /**
+         * updates the length to a node if its shorter than the one already found
+         *
+         * @param w      node reached
+         * @param length length of the path to it
+         */
+        public void relax(int w, double length) {
+            if (length >= dist[w]) return;
+            if (dist[w] == Double.POSITIVE_INFINITY) {
+                if (touched_count == touched.length) touched = Arrays.copyOf(touched, touched_count * 2);
+                touched[touched_count] = w;
+                touched_count++;
+            }
+            dist[w] = length;
+
+            //old entries for w stay in the heap and are skipped when they come out
+            if (size == heap_nodes.length) {
+                heap_lengths = Arrays.copyOf(heap_lengths, size * 2);
+                heap_nodes = Arrays.copyOf(heap_nodes, size * 2);
+            }
+            int i = size;
+            size++;
+            while (i > 0 && heap_lengths[(i - 1) / 2] > length) {
+                heap_lengths[i] = heap_lengths[(i - 1) / 2];
+                heap_nodes[i] = heap_nodes[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            heap_lengths[i] = length;
+            heap_nodes[i] = w;
+        }
+
+        /**
+         * gets the length of the closest entry in the heap
+         *
+         * @return smallest length
+         */
+        public double topLength() {
+            return heap_lengths[0];
+        }
+
+        /**
+         * removes the closest entry from the heap
+         *
+         * @return node of the closest entry
+         */
+        public int poll() {
+            int rtn = heap_nodes[0];
+            size--;
+            double length = heap_lengths[size];
+            int node = heap_nodes[size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap_lengths[child + 1] < heap_lengths[child]) child++;
+                if (heap_lengths[child] >= length) break;
+                heap_lengths[i] = heap_lengths[child];
+                heap_nodes[i] = heap_nodes[child];
+                i = child;
+            }
+            heap_lengths[i] = length;
+            heap_nodes[i] = node;
+            return rtn;
+        }
+    }
+
+    /**
+     * shortcut that replaces the path from -> via -> to while via is being contracted
+     */
+    private static class Shortcut {
+        private int from;
+        private int to;
+        private int via;
+        private double weight;
+
+        /**
+         * constructs a new shortcut
+         *
+         * @param from   node it starts from
+         * @param to     node it points to
+         * @param via    node being contracted
+         * @param weight length of the path it replaces
+         */
+        public Shortcut(int from, int to, int via, double weight) {
+            this.from = from;
+            this.to = to;
+            this.via = via;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * one direction of a query (dijkstra that only follows edges up the hierarchy)
+     */
+    private static class Search {
+        //key = each node reached, value = current shortest length to that node
+        private HashMap<Integer, Double> dist;
+        //key = each node reached, value = where it came from
+        private HashMap<Integer, Integer> parent;
+        private PriorityQueue<double[]> queue;
+
+        /**
+         * starts a new search
+         *
+         * @param start node to start from
+         */
+        public Search(int start) {
+            dist = new HashMap<>();
+            parent = new HashMap<>();
+            queue = new PriorityQueue<>(Comparator.comparingDouble(a -> a[0]));
+            dist.put(start, 0.0);
+            queue.add(new double[]{0, start});
+        }
+
+        /**
+         * settles the closest node and updates its neighbors
+         *
+         * @param targets neighbors of each node
+         * @param weights weights of the edges to each neighbor
+         * @return node that was settled, -1 if the closest entry was out of date
+         */
+        public int step(int[][] targets, double[][] weights) {
+            double[] top = queue.poll();
+            int curr = (int) top[1];
+            if (top[0] > dist.get(curr)) return -1;
+            for (int i = 0; i < targets[curr].length; i++) {
+                int w = targets[curr][i];
+                double length = top[0] + weights[curr][i];
+                Double found = dist.get(w);
+                if (found == null || length < found) {
+                    dist.put(w, length);
+                    parent.put(w, curr);
+                    queue.add(new double[]{length, w});
+                }
+            }
+            return curr;
+        }
+    }
+}
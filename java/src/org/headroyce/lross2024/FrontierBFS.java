@@ -0,0 +1,243 @@
+package org.headroyce.lross2024;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * breadth first search over a fixed snapshot of a graph's edges
+ * (frontiers are bitsets, and each level either pushes out from the frontier or has unvisited nodes look back at it, whichever checks fewer edges)
+ */
+class FrontierBFS {
+    //switch to bottom-up once the frontier has more than 1/ALPHA of the edges left to check
+    private static final int ALPHA = 14;
+    //switch back to top-down once the frontier has less than 1/BETA of the nodes
+    private static final int BETA = 24;
+    //graphs smaller than this arent worth splitting across threads
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    //version of the graph this snapshot was made from
+    private int version;
+    //label of each node (index = node id)
+    private String[] labels;
+    //key = label, value = node id
+    private HashMap<String, Integer> ids;
+    private int n;
+    private int words;
+    //edges pointing from node i are outTargets[outOffsets[i]] up to outTargets[outOffsets[i + 1]]
+    private int[] outOffsets;
+    private int[] outTargets;
+    //edges pointing to node i are inSources[inOffsets[i]] up to inSources[inOffsets[i + 1]]
+    private int[] inOffsets;
+    private int[] inSources;
+
+    /**
+     * constructs a new search over a list of edges
+     *
+     * @param version    version of the graph the edges come from
+     * @param labels     label of each node (ids go from 0 to labels.length - 1)
+     * @param ids        id of each label
+     * @param outOffsets where each node's edges start in outTargets (length labels.length + 1)
+     * @param outTargets node each edge points to
+     */
+    public FrontierBFS(int version, String[] labels, HashMap<String, Integer> ids, int[] outOffsets, int[] outTargets) {
+        this.version = version;
+        this.labels = labels;
+        this.ids = ids;
+        this.n = labels.length;
+        this.words = (n + 63) >>> 6;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+
+        //flip the edges around so the bottom-up steps can look at where each node is pointed from
+        inOffsets = new int[n + 1];
+        for (int target : outTargets) {
+            inOffsets[target + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            inOffsets[i + 1] += inOffsets[i];
+        }
+        inSources = new int[outTargets.length];
+        int[] filled = new int[n];
+        for (int u = 0; u < n; u++) {
+            for (int i = outOffsets[u]; i < outOffsets[u + 1]; i++) {
+                int v = outTargets[i];
+                inSources[inOffsets[v] + filled[v]] = u;
+                filled[v]++;
+            }
+        }
+    }
+
+    /**
+     * gets the version of the graph this snapshot was made from
+     *
+     * @return version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * gets the id of a node
+     *
+     * @param label label of node
+     * @return id of the node, -1 if it wasnt in the graph
+     */
+    public int getId(String label) {
+        Integer rtn = ids.get(label);
+        if (rtn == null) return -1;
+        return rtn;
+    }
+
+    /**
+     * gets the label of a node
+     *
+     * @param id id of node
+     * @return label of the node
+     */
+    public String getLabel(int id) {
+        return labels[id];
+    }
+
+    /**
+     * finds how many hops it takes to reach each node from a starting node
+     *
+     * @param source    id of node to start at
+     * @param max_depth most hops to go out
+     * @param target    id of node to stop at once its reached, -1 to keep going
+     * @return number of hops to each node, -1 if it wasnt reached
+     */
+    public int[] run(int source, int max_depth, int target) {
+        int[] depth = new int[n];
+        Arrays.fill(depth, -1);
+        depth[source] = 0;
+
+        AtomicLongArray visited = new AtomicLongArray(words);
+        long[] frontier = new long[words];
+        visited.set(source >>> 6, 1L << source);
+        frontier[source >>> 6] = 1L << source;
+
+        long frontier_size = 1;
+        long frontier_edges = outOffsets[source + 1] - outOffsets[source];
+        long unvisited_edges = outTargets.length - (inOffsets[source + 1] - inOffsets[source]);
+        boolean bottom_up = false;
+
+        for (int level = 1; level <= max_depth && frontier_size > 0; level++) {
+            if (target != -1 && depth[target] != -1) break;
+
+            if (!bottom_up && frontier_edges > unvisited_edges / ALPHA) bottom_up = true;
+            else if (bottom_up && frontier_size * BETA < n) bottom_up = false;
+
+            AtomicLongArray next = new AtomicLongArray(words);
+            if (bottom_up) bottomUp(level, frontier, next, visited, depth);
+            else topDown(level, frontier, next, visited, depth);
+
+            //the next frontier becomes the current one
+            frontier_size = 0;
+            frontier_edges = 0;
+            for (int w = 0; w < words; w++) {
+                long word = next.get(w);
+                frontier[w] = word;
+                while (word != 0) {
+                    int v = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    frontier_size++;
+                    frontier_edges += outOffsets[v + 1] - outOffsets[v];
+                    unvisited_edges -= inOffsets[v + 1] - inOffsets[v];
+                }
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * expands every node in the frontier, claiming any neighbor that hasnt been visited
+     *
+     * @param level    number of hops to the new nodes
+     * @param frontier nodes reached on the last level
+     * @param next     nodes reached on this level
+     * @param visited  every node reached so far
+     * @param depth    number of hops to each node
+     */
+    private void topDown(int level, long[] frontier, AtomicLongArray next, AtomicLongArray visited, int[] depth) {
+        range().forEach(w -> {
+            long word = frontier[w];
+            while (word != 0) {
+                int u = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                for (int i = outOffsets[u]; i < outOffsets[u + 1]; i++) {
+                    int v = outTargets[i];
+                    //only one thread can claim each node, so its depth is only written once
+                    if (claim(visited, v)) {
+                        depth[v] = level;
+                        next.getAndAccumulate(v >>> 6, 1L << v, (a, b) -> a | b);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * checks every unvisited node for an edge from the frontier (each thread owns whole words, so no node is shared)
+     *
+     * @param level    number of hops to the new nodes
+     * @param frontier nodes reached on the last level
+     * @param next     nodes reached on this level
+     * @param visited  every node reached so far
+     * @param depth    number of hops to each node
+     */
+    private void bottomUp(int level, long[] frontier, AtomicLongArray next, AtomicLongArray visited, int[] depth) {
+        range().forEach(w -> {
+            long unvisited = ~visited.get(w);
+            //ignore the bits past the last node
+            if (w == words - 1 && (n & 63) != 0) unvisited &= (1L << (n & 63)) - 1;
+            long found = 0;
+            while (unvisited != 0) {
+                int v = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                long bit = unvisited & -unvisited;
+                unvisited &= unvisited - 1;
+                for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                    int u = inSources[i];
+                    if ((frontier[u >>> 6] & (1L << u)) != 0) {
+                        depth[v] = level;
+                        found |= bit;
+                        break;
+                    }
+                }
+            }
+            if (found != 0) {
+                next.set(w, found);
+                visited.set(w, visited.get(w) | found);
+            }
+        });
+    }
+
+    /**
+     * marks a node as visited
+     *
+     * @param visited every node reached so far
+     * @param v       node to mark
+     * @return true if this call marked it, false if it was already visited
+     */
+    private static boolean claim(AtomicLongArray visited, int v) {
+        long bit = 1L << v;
+        long old;
+        do {
+            old = visited.get(v >>> 6);
+            if ((old & bit) != 0) return false;
+        } while (!visited.compareAndSet(v >>> 6, old, old | bit));
+        return true;
+    }
+
+    /**
+     * gets the index of every word in a bitset, split across threads if the graph is big enough
+     *
+     * @return stream of word indexes
+     */
+    private IntStream range() {
+        IntStream rtn = IntStream.range(0, words);
+        if (n >= PARALLEL_THRESHOLD) rtn = rtn.parallel();
+        return rtn;
+    }
+}
@@ -9,14 +9,25 @@ import java.util.*;
  * @param <E> data type for edge
  */
 public class Graph<V, E extends Comparable<E>> {
-    //map stores each node and a pointer to a list to all nodes
-    private LinkedHashMap<String, GNode<V>> nodes;
+    //map stores each node and a pointer to a list to all nodes (volatile so a batch can swap in a whole new map at once)
+    private volatile LinkedHashMap<String, GNode<V>> nodes;
+    //snapshot of the edges for breadth first searches (made again once version changes)
+    private volatile FrontierBFS traversal;
+    //goes up by one on every change to the graph
+    private volatile int version;
+    //running totals (kept up to date on every change so they never have to look at every edge)
+    //a change swaps in a whole new object, so a reader gets all the totals from the same change with one read
+    private volatile Totals totals;
+    //key = [from label, to label, data] of each edge, value = how many of them there are (so pairs can be matched up)
+    private HashMap<List<Object>, Integer> edgeKeys;
 
     /**
      * constructs a new graph with an empty map of nodes
      */
     public Graph() {
         nodes = new LinkedHashMap<>();
+        totals = new Totals(0, 0, 0);
+        edgeKeys = new HashMap<>();
     }
 
     /**
@@ -30,6 +41,7 @@ public class Graph<V, E extends Comparable<E>> {
         if (nodes.get(label) == null) {
             GNode<V> node = new GNode<>(data, label);
             nodes.put(label, node);
+            version++;
             return true;
         }
         return false;
@@ -46,10 +58,18 @@ public class Graph<V, E extends Comparable<E>> {
         if (node == null) return false;
 
         nodes.remove(label, node);
+        version++;
+        for (GEdge<E> edge : node.getEdges()) {
+            track(edge, -1);
+        }
         for (GNode<V> node2 : nodes.values()) {
-            for (GEdge<E> edge : node2.getEdges()) {
+            //iterator so edges can be removed while looping
+            Iterator<GEdge<E>> it = node2.getEdges().iterator();
+            while (it.hasNext()) {
+                GEdge<E> edge = it.next();
                 if (edge.getTo().equals(node)) {
-                    node2.removeEdge(edge);
+                    it.remove();
+                    track(edge, -1);
                 }
             }
         }
@@ -68,16 +88,18 @@ public class Graph<V, E extends Comparable<E>> {
         for (GNode<V> node : nodes.values()) {
             if (from.equals(node.getLabel())) {
                 for (GEdge<E> edge : node.getEdges()) {
-                    if (edge.getData().equals(data) && edge.getTo().getLabel().equals(to)) {
+                    if (Objects.equals(edge.getData(), data) && edge.getTo().getLabel().equals(to)) {
                         //check if its undirected
                         if (edge.isUndirected()){
                             for (GNode<V> node2 : nodes.values()){
                                 for (GEdge<E> edge2 : node2.getEdges()){
-                                    if (edge2.getTo().equals(edge.getFrom()) && edge2.getFrom().equals(edge.getTo()) && edge2.getData() == edge.getData()) edge2.setDirection(false);
+                                    if (edge2.getTo().equals(edge.getFrom()) && edge2.getFrom().equals(edge.getTo()) && Objects.equals(edge2.getData(), edge.getData())) edge2.setDirection(false);
                                 }
                             }
                         }
                         node.removeEdge(edge);
+                        track(edge, -1);
+                        version++;
                         return true;
                     }
                 }
@@ -116,7 +138,7 @@ public class Graph<V, E extends Comparable<E>> {
         //check if this makes an existing edge undirected
         for (GNode<V> node : nodes.values()){
             for (GEdge<E> edge : node.getEdges()){
-                if (edge.getTo().equals(from) && edge.getFrom().equals(to) && edge.getData() == data){
+                if (edge.getTo().equals(from) && edge.getFrom().equals(to) && Objects.equals(edge.getData(), data)){
                     edge.setDirection(true);
                     undirected = true;
                 }
@@ -124,6 +146,8 @@ public class Graph<V, E extends Comparable<E>> {
         }
         GEdge<E> edge = new GEdge<>(data, from, to, undirected);
         from.addEdge(edge);
+        track(edge, 1);
+        version++;
         return true;
     }
 
@@ -141,6 +165,139 @@ public class Graph<V, E extends Comparable<E>> {
         return (direct1 && direct2);
     }
 
+    /**
+     * starts a new batch of changes to this graph (nothing changes until its applied)
+     *
+     * @return empty batch
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    /**
+     * applies a batch of changes in one pass, then swaps the new nodes in all at once
+     * (removals happen before insertions, and undirected edges are paired up at the end instead of after every edge)
+     * edges already in the graph keep their direction, the same as with the single-edge methods: an added edge becomes undirected
+     * (along with the edge it pairs with) if an edge with the same data points back, and removing an undirected edge makes the edges pointing back directed
+     *
+     * @param batch changes to apply
+     * @return true if every change was applied, false if some couldnt be (those are skipped, the rest are still applied)
+     */
+    public boolean applyBatch(Batch batch) {
+        boolean rtn = true;
+
+        //key = label, value = data for each node that will be in the graph
+        LinkedHashMap<String, V> next_nodes = new LinkedHashMap<>();
+        for (GNode<V> node : nodes.values()) {
+            if (!batch.removedNodes.contains(node.getLabel())) next_nodes.put(node.getLabel(), node.getData());
+        }
+        for (String label : batch.removedNodes) {
+            if (nodes.get(label) == null) rtn = false;
+        }
+        for (String label : batch.addedNodes.keySet()) {
+            if (next_nodes.containsKey(label)) rtn = false;
+            else next_nodes.put(label, batch.addedNodes.get(label));
+        }
+
+        //key = [from label, to label, data] of an edge to remove, value = how many of them to remove
+        HashMap<List<Object>, Integer> removals = new HashMap<>();
+        for (List<Object> edge : batch.removedEdges) {
+            removals.merge(edge, 1, Integer::sum);
+        }
+
+        //every edge that will be in the graph, as [from label, to label, data]
+        ArrayList<List<Object>> next_edges = new ArrayList<>();
+        //if each edge already in the graph is undirected (the added edges come after these)
+        ArrayList<Boolean> kept_directions = new ArrayList<>();
+        //edges pointing back from a removed undirected edge (they become directed, like in removeDirectedEdge)
+        HashSet<List<Object>> cleared = new HashSet<>();
+        for (GNode<V> node : nodes.values()) {
+            for (GEdge<E> edge : node.getEdges()) {
+                String from = edge.getFrom().getLabel();
+                String to = edge.getTo().getLabel();
+                //edges touching a removed node go with it
+                if (batch.removedNodes.contains(from) || batch.removedNodes.contains(to)) continue;
+                List<Object> key = Arrays.asList(from, to, edge.getData());
+                Integer count = removals.get(key);
+                if (count != null && count > 0) {
+                    removals.replace(key, count - 1);
+                    if (edge.isUndirected()) cleared.add(Arrays.asList(to, from, edge.getData()));
+                } else {
+                    next_edges.add(key);
+                    kept_directions.add(edge.isUndirected());
+                }
+            }
+        }
+        for (Integer count : removals.values()) {
+            if (count > 0) rtn = false;
+        }
+        for (List<Object> edge : batch.addedEdges) {
+            if (next_nodes.containsKey(edge.get(0)) && next_nodes.containsKey(edge.get(1))) next_edges.add(edge);
+            else rtn = false;
+        }
+
+        //count every edge and each node's degree, so the twins can be found with one lookup and the lists are the right size
+        HashMap<List<Object>, Integer> counts = new HashMap<>();
+        HashMap<String, Integer> degrees = new HashMap<>();
+        for (List<Object> edge : next_edges) {
+            counts.merge(edge, 1, Integer::sum);
+            degrees.merge((String) edge.get(0), 1, Integer::sum);
+        }
+
+        //pair up the added edges (an added edge is undirected if an edge with the same data points back, and so is that edge)
+        boolean[] directions = new boolean[next_edges.size()];
+        HashSet<List<Object>> paired = new HashSet<>();
+        for (int i = kept_directions.size(); i < next_edges.size(); i++) {
+            List<Object> edge = next_edges.get(i);
+            List<Object> reverse = Arrays.asList(edge.get(1), edge.get(0), edge.get(2));
+            //a loop has to find another copy of itself
+            int twins = counts.getOrDefault(reverse, 0);
+            directions[i] = edge.get(0).equals(edge.get(1)) ? twins > 1 : twins > 0;
+            if (directions[i]) paired.add(reverse);
+        }
+        for (int i = 0; i < kept_directions.size(); i++) {
+            List<Object> edge = next_edges.get(i);
+            directions[i] = (kept_directions.get(i) && !cleared.contains(edge)) || paired.contains(edge);
+        }
+
+        LinkedHashMap<String, GNode<V>> next = new LinkedHashMap<>();
+        for (String label : next_nodes.keySet()) {
+            next.put(label, new GNode<>(next_nodes.get(label), label, degrees.getOrDefault(label, 0)));
+        }
+        for (int i = 0; i < next_edges.size(); i++) {
+            List<Object> edge = next_edges.get(i);
+            GNode<V> from = next.get(edge.get(0));
+            GNode<V> to = next.get(edge.get(1));
+            @SuppressWarnings("unchecked")
+            E data = (E) edge.get(2);
+            boolean undirected = directions[i];
+            from.addEdge(new GEdge<>(data, from, to, undirected));
+            to.setInDegree(to.getInDegree() + 1);
+        }
+
+        //totals are worked out again from the edge counts (each pair is only added from one side)
+        double next_total = 0;
+        double next_paired = 0;
+        for (Map.Entry<List<Object>, Integer> entry : counts.entrySet()) {
+            List<Object> key = entry.getKey();
+            if (key.get(2) instanceof Number) {
+                double weight = ((Number) key.get(2)).doubleValue();
+                next_total += weight * entry.getValue();
+                int compare = ((String) key.get(0)).compareTo((String) key.get(1));
+                if (compare <= 0) {
+                    List<Object> reverse = Arrays.asList(key.get(1), key.get(0), key.get(2));
+                    next_paired += weight * pairs(entry.getValue(), compare == 0 ? entry.getValue() : counts.getOrDefault(reverse, 0), compare == 0);
+                }
+            }
+        }
+
+        edgeKeys = counts;
+        totals = new Totals(next_edges.size(), next_total, next_paired);
+        nodes = next;
+        version++;
+        return rtn;
+    }
+
     /**
      * prims algorithm (treat all edges as directed and weighted)
      *
@@ -333,6 +490,103 @@ public class Graph<V, E extends Comparable<E>> {
         return rtn;
     }
 
+    /**
+     * breadth first search which ignores edge weights
+     *
+     * @param from_label label of node to start at
+     * @return null if the node doesnt exist, a map of each node that can be reached and the number of hops to it (closest first) otherwise
+     */
+    public LinkedHashMap<String, Integer> breadth_first_search(String from_label) {
+        return k_hop_neighborhood(from_label, Integer.MAX_VALUE);
+    }
+
+    /**
+     * finds every node that can be reached from a node in at most k hops
+     *
+     * @param from_label label of node to start at
+     * @param k          most hops to go out
+     * @return null if the node doesnt exist, a map of each node within k hops and the number of hops to it (closest first) otherwise
+     */
+    public LinkedHashMap<String, Integer> k_hop_neighborhood(String from_label, int k) {
+        //labels and ids come from the same snapshot as the edges, so a batch swapping in new nodes cant mix them up
+        FrontierBFS snapshot = getTraversal();
+        int from = snapshot.getId(from_label);
+        if (from == -1 || k < 0) {
+            return null;
+        }
+        int[] depth = snapshot.run(from, k, -1);
+
+        //sort the nodes by their number of hops
+        ArrayList<ArrayList<String>> levels = new ArrayList<>();
+        for (int i = 0; i < depth.length; i++) {
+            if (depth[i] != -1) {
+                while (levels.size() <= depth[i]) levels.add(new ArrayList<>());
+                levels.get(depth[i]).add(snapshot.getLabel(i));
+            }
+        }
+        LinkedHashMap<String, Integer> rtn = new LinkedHashMap<>();
+        for (int hops = 0; hops < levels.size(); hops++) {
+            for (String label : levels.get(hops)) {
+                rtn.put(label, hops);
+            }
+        }
+        return rtn;
+    }
+
+    /**
+     * finds the least number of edges it takes to get from one node to another (ignores edge weights)
+     *
+     * @param from_label label of node to start at
+     * @param to_label   label of node to end at
+     * @return number of hops, -1 if no such path exists or incorrect inputs
+     */
+    public int hop_count(String from_label, String to_label) {
+        FrontierBFS snapshot = getTraversal();
+        int from = snapshot.getId(from_label);
+        int to = snapshot.getId(to_label);
+        if (from == -1 || to == -1) {
+            return -1;
+        }
+        return snapshot.run(from, Integer.MAX_VALUE, to)[to];
+    }
+
+    /**
+     * gets the snapshot of the edges used by breadth first searches, making a new one if the graph has changed
+     *
+     * @return snapshot of the current edges
+     */
+    private FrontierBFS getTraversal() {
+        FrontierBFS rtn = traversal;
+        //read the version before the nodes, so a change that happens while the snapshot is made leaves it out of date (and it gets made again)
+        int curr_version = version;
+        if (rtn == null || rtn.getVersion() != curr_version) {
+            LinkedHashMap<String, GNode<V>> curr_nodes = nodes;
+
+            //give each node an id in the order they were added
+            String[] labels = new String[curr_nodes.size()];
+            HashMap<String, Integer> ids = new HashMap<>();
+            int edge_count = 0;
+            for (GNode<V> node : curr_nodes.values()) {
+                labels[ids.size()] = node.getLabel();
+                ids.put(node.getLabel(), ids.size());
+                edge_count += node.getEdges().size();
+            }
+            int[] offsets = new int[labels.length + 1];
+            int[] targets = new int[edge_count];
+            int i = 0;
+            for (GNode<V> node : curr_nodes.values()) {
+                for (GEdge<E> edge : node.getEdges()) {
+                    targets[i] = ids.get(edge.getTo().getLabel());
+                    i++;
+                }
+                offsets[ids.get(node.getLabel()) + 1] = i;
+            }
+            rtn = new FrontierBFS(curr_version, labels, ids, offsets, targets);
+            traversal = rtn;
+        }
+        return rtn;
+    }
+
     /**
      * returns weighted adjacency matrix in a string format
      *
@@ -388,34 +642,156 @@ public class Graph<V, E extends Comparable<E>> {
     /**
      * returns the cost of all the edges with numerical weights
      *
-     * @return cost of all edges (check for undirected edge)
+     * @return cost of all edges (2 edges that point at each other with the same data are an undirected edge, which is only counted once)
      */
     public double getCost() {
-        ArrayList<GEdge<E>> edges = new ArrayList<>();
-        for (GNode<V> node : nodes.values()) {
-            for (GEdge<E> edge : node.getEdges()) {
-                if (edge.getData() instanceof Number) {
-                    //handle undirected edges
-                    if (edge.isUndirected()){
-                        boolean found = false;
-                        for (GEdge<E> edge2 : edges){
-                            if (edge2.getTo().equals(edge.getFrom()) && edge2.getFrom().equals(edge.getTo()) && edge.getData() == edge2.getData()){
-                                found = true;
-                            }
-                        }
-                        if (!found){
-                            edges.add(edge);
-                        }
-                    }
+        Totals curr = totals;
+        return curr.getTotalWeight() - curr.getPairedWeight();
+    }
+
+    /**
+     * gets the total weight of the numerical directed edges (edges with no edge pointing back with the same data)
+     *
+     * @return weight of directed edges
+     */
+    public double getDirectedWeight() {
+        Totals curr = totals;
+        return curr.getTotalWeight() - 2 * curr.getPairedWeight();
+    }
+
+    /**
+     * gets the total weight of the numerical undirected edges (pairs of edges pointing at each other with the same data)
+     *
+     * @return weight of undirected edges (each pair is only counted once)
+     */
+    public double getUndirectedWeight() {
+        return totals.getPairedWeight();
+    }
+
+    /**
+     * gets the number of edges in the graph
+     *
+     * @return number of directed edges (an undirected edge counts as 2)
+     */
+    public int getEdgeCount() {
+        return totals.getEdgeCount();
+    }
+
+    /**
+     * gets the number of edges pointing to a node
+     *
+     * @param label label of node
+     * @return in-degree of the node, -1 if it doesnt exist
+     */
+    public int getInDegree(String label) {
+        GNode<V> node = nodes.get(label);
+        if (node == null) return -1;
+        return node.getInDegree();
+    }
+
+    /**
+     * gets the number of edges pointing from a node
+     *
+     * @param label label of node
+     * @return out-degree of the node, -1 if it doesnt exist
+     */
+    public int getOutDegree(String label) {
+        GNode<V> node = nodes.get(label);
+        if (node == null) return -1;
+        return node.getEdges().size();
+    }
+
+    /**
+     * adds or removes an edge from the running totals
+     *
+     * @param edge edge that was added or removed
+     * @param sign 1 if it was added, -1 if it was removed
+     */
+    private void track(GEdge<E> edge, int sign) {
+        Totals curr = totals;
+        double total_weight = curr.getTotalWeight();
+        double paired_weight = curr.getPairedWeight();
+        edge.getTo().setInDegree(edge.getTo().getInDegree() + sign);
+
+        List<Object> key = Arrays.asList(edge.getFrom().getLabel(), edge.getTo().getLabel(), edge.getData());
+        List<Object> reverse = Arrays.asList(edge.getTo().getLabel(), edge.getFrom().getLabel(), edge.getData());
+        boolean loop = key.equals(reverse);
+        int before = edgeKeys.getOrDefault(key, 0);
+        int after = before + sign;
+        if (after == 0) edgeKeys.remove(key);
+        else edgeKeys.put(key, after);
+
+        if (edge.getData() instanceof Number) {
+            double weight = ((Number) edge.getData()).doubleValue();
+            total_weight += weight * sign;
+            //the edge only changes the paired weight if it makes or breaks a pair
+            int other = edgeKeys.getOrDefault(reverse, 0);
+            paired_weight += weight * (pairs(after, loop ? after : other, loop) - pairs(before, loop ? before : other, loop));
+        }
+        totals = new Totals(curr.getEdgeCount() + sign, total_weight, paired_weight);
+    }
+
+    /**
+     * counts how many pairs can be made between edges going one way and edges going back
+     *
+     * @param count   number of edges going one way
+     * @param reverse number of edges going back
+     * @param loop    true if the edges are loops (then they pair up with each other)
+     * @return number of pairs
+     */
+    private static int pairs(int count, int reverse, boolean loop) {
+        if (loop) return count / 2;
+        return Math.min(count, reverse);
+    }
+
+    /**
+     * gets the labels of every node in the order they were added
+     *
+     * @return list of node labels
+     */
+    ArrayList<String> getLabels() {
+        return new ArrayList<>(nodes.keySet());
+    }
+
+    /**
+     * gets the numerical edges pointing from a node (if there are multiple edges to the same node, only the smallest is kept)
+     *
+     * @param label label of node the edges point from
+     * @return map of each label pointed to and the weight of the edge to it, null if the node doesnt exist
+     */
+    LinkedHashMap<String, Number> getNumericEdges(String label) {
+        GNode<V> node = nodes.get(label);
+        if (node == null) return null;
+
+        LinkedHashMap<String, Number> rtn = new LinkedHashMap<>();
+        for (GEdge<E> edge : node.getEdges()) {
+            if (edge.getData() instanceof Number) {
+                Number num = (Number) edge.getData();
+                Number found = rtn.get(edge.getTo().getLabel());
+                if (found == null || num.doubleValue() < found.doubleValue()) {
+                    rtn.put(edge.getTo().getLabel(), num);
                 }
             }
         }
+        return rtn;
+    }
+
+    /**
+     * checks if an edge is marked as undirected
+     *
+     * @param data data in edge
+     * @param from label of node the edge points from
+     * @param to   label of node the edge points to
+     * @return true if the first edge that matches is undirected, false if its directed or doesnt exist
+     */
+    boolean isUndirected(E data, String from, String to) {
+        GNode<V> node = nodes.get(from);
+        if (node == null) return false;
 
-        double rtn = 0;
-        for (GEdge<E> edge : edges){
-            rtn += ((Number) edge.getData()).doubleValue();
+        for (GEdge<E> edge : node.getEdges()) {
+            if (Objects.equals(edge.getData(), data) && edge.getTo().getLabel().equals(to)) return edge.isUndirected();
         }
-        return rtn;
+        return false;
     }
 
     /**
@@ -428,6 +804,8 @@ public class Graph<V, E extends Comparable<E>> {
         private V data;
         private String label;
         private ArrayList<GEdge<E>> edges;
+        //number of edges pointing to this node
+        private int inDegree;
 
         /**
          * constructs a new node
@@ -441,6 +819,19 @@ public class Graph<V, E extends Comparable<E>> {
             edges = new ArrayList<>();
         }
 
+        /**
+         * constructs a new node with room for a known number of edges
+         *
+         * @param data     data for node
+         * @param label    label for node (unique attribute)
+         * @param capacity number of edges it will point from
+         */
+        public GNode(V data, String label, int capacity) {
+            this.data = data;
+            this.label = label;
+            edges = new ArrayList<>(capacity);
+        }
+
         /**
          * gets the data attribute
          *
@@ -501,6 +892,24 @@ public class Graph<V, E extends Comparable<E>> {
             return edges.remove(edge);
         }
 
+        /**
+         * gets the number of edges pointing to this node
+         *
+         * @return in-degree
+         */
+        public int getInDegree() {
+            return inDegree;
+        }
+
+        /**
+         * sets the number of edges pointing to this node
+         *
+         * @param inDegree new in-degree
+         */
+        public void setInDegree(int inDegree) {
+            this.inDegree = inDegree;
+        }
+
         /**
          * returns a list of the edges this node points from
          *
@@ -622,7 +1031,7 @@ public class Graph<V, E extends Comparable<E>> {
         public boolean equals(Object obj) {
             if (obj instanceof GEdge) {
                 GEdge g = (GEdge) obj;
-                if (this.data.equals(g.getData()) && this.getTo().equals(g.getTo()) && this.getFrom().equals(g.getFrom())) {
+                if (Objects.equals(this.data, g.getData()) && this.getTo().equals(g.getTo()) && this.getFrom().equals(g.getFrom())) {
                     return true;
                 }
             }
@@ -647,4 +1056,160 @@ public class Graph<V, E extends Comparable<E>> {
 
     }
 
+    /**
+     * running totals of a graph's edges (never changed once made, a change to the graph makes a new one)
+     */
+    private static class Totals {
+        //number of directed edges
+        private final int edgeCount;
+        //total weight of every numerical edge
+        private final double totalWeight;
+        //weight of every pair of edges that point at each other with the same data (each pair is counted once)
+        private final double pairedWeight;
+
+        /**
+         * constructs a new set of totals
+         *
+         * @param edgeCount    number of directed edges
+         * @param totalWeight  total weight of every numerical edge
+         * @param pairedWeight weight of every pair of edges that point at each other with the same data
+         */
+        public Totals(int edgeCount, double totalWeight, double pairedWeight) {
+            this.edgeCount = edgeCount;
+            this.totalWeight = totalWeight;
+            this.pairedWeight = pairedWeight;
+        }
+
+        /**
+         * gets the number of directed edges
+         *
+         * @return edge count
+         */
+        public int getEdgeCount() {
+            return edgeCount;
+        }
+
+        /**
+         * gets the total weight of every numerical edge
+         *
+         * @return total weight
+         */
+        public double getTotalWeight() {
+            return totalWeight;
+        }
+
+        /**
+         * gets the weight of every pair of edges that point at each other with the same data
+         *
+         * @return paired weight
+         */
+        public double getPairedWeight() {
+            return pairedWeight;
+        }
+    }
+
+    /**
+     * list of changes to make to a graph all at once (see applyBatch)
+     */
+    public class Batch {
+        private LinkedHashSet<String> removedNodes;
+        //key = label, value = data
+        private LinkedHashMap<String, V> addedNodes;
+        //each edge is stored as [from label, to label, data]
+        private ArrayList<List<Object>> removedEdges;
+        private ArrayList<List<Object>> addedEdges;
+
+        /**
+         * constructs a new empty batch
+         */
+        private Batch() {
+            removedNodes = new LinkedHashSet<>();
+            addedNodes = new LinkedHashMap<>();
+            removedEdges = new ArrayList<>();
+            addedEdges = new ArrayList<>();
+        }
+
+        /**
+         * adds a new node (ignored if it already exists)
+         *
+         * @param data  data for the node
+         * @param label string label of node (unique attribute)
+         * @return this batch
+         */
+        public Batch addNode(V data, String label) {
+            addedNodes.putIfAbsent(label, data);
+            return this;
+        }
+
+        /**
+         * removes a node and all edges pointing to or from it
+         *
+         * @param label label of node to remove
+         * @return this batch
+         */
+        public Batch removeNode(String label) {
+            removedNodes.add(label);
+            return this;
+        }
+
+        /**
+         * adds a directed edge (it becomes undirected if an edge with the same data points back)
+         *
+         * @param data       data for edge
+         * @param from_label label of the node to connect from
+         * @param to_label   label of the node to connect to
+         * @return this batch
+         */
+        public Batch addDirectedEdge(E data, String from_label, String to_label) {
+            addedEdges.add(Arrays.asList(from_label, to_label, data));
+            return this;
+        }
+
+        /**
+         * adds a 2-way undirected edge
+         *
+         * @param data       data for edge
+         * @param from_label label of first node
+         * @param to_label   label of second node
+         * @return this batch
+         */
+        public Batch addUndirectedEdge(E data, String from_label, String to_label) {
+            return addDirectedEdge(data, from_label, to_label).addDirectedEdge(data, to_label, from_label);
+        }
+
+        /**
+         * removes one directed edge
+         *
+         * @param data data in edge
+         * @param from label of node the edge points from
+         * @param to   label of node the edge points to
+         * @return this batch
+         */
+        public Batch removeDirectedEdge(E data, String from, String to) {
+            removedEdges.add(Arrays.asList(from, to, data));
+            return this;
+        }
+
+        /**
+         * removes an undirected edge (both directed edges with the same data)
+         *
+         * @param data data of edge(s)
+         * @param from first node connected by edge
+         * @param to   second node connected by edge
+         * @return this batch
+         */
+        public Batch removeUndirectedEdge(E data, String from, String to) {
+            return removeDirectedEdge(data, from, to).removeDirectedEdge(data, to, from);
+        }
+
+        /**
+         * applies this batch to the graph it came from
+         *
+         * @return true if every change was applied, false otherwise
+         */
+        public boolean apply() {
+            return applyBatch(this);
+        }
+    }
+
 }
\ No newline at end of file
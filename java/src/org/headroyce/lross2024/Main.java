@@ -56,9 +56,12 @@ public class Main {
         //any more than 26 nodes = too much
         final int starting_ascii_value = 97;
 
+        //add everything in one batch so undirected edges are only paired up once at the end
+        Graph<Boolean, Integer>.Batch batch = graph.batch();
+
         //fill the graph with alphabetical nodes
         for (int i = starting_ascii_value; i < text.size() + starting_ascii_value; i++) {
-            graph.addNode(true, Character.toString((char) i));
+            batch.addNode(true, Character.toString((char) i));
         }
 
         //now we traverse the 2d arraylist and connect the nodes
@@ -68,9 +71,10 @@ public class Main {
                 String from_label = Character.toString((char) (row + starting_ascii_value));
                 String to_label = Character.toString((char) (col + starting_ascii_value));
 
-                if (weight > 0) graph.addDirectedEdge(weight, from_label, to_label, false);
+                if (weight > 0) batch.addDirectedEdge(weight, from_label, to_label);
             }
         }
+        batch.apply();
 
         HashMap<String, Number> shortest_path = graph.shortest_path();
         Graph<Boolean, Integer> spanning_tree = graph.smallest_spanning_tree();
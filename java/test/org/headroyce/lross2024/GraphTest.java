@@ -0,0 +1,597 @@
+package org.headroyce.lross2024;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * checks Graph and the indexes built from it (run main, it throws an error on the first check that fails)
+ */
+public class GraphTest {
+
+    /**
+     * exectuable main method
+     *
+     * @param args command line arguments (input text file, res/input.txt if left out)
+     * @throws IOException if the input file or a temp file cant be used
+     */
+    public static void main(String[] args) throws IOException {
+        String input_file = args.length > 0 ? args[0] : "res/input.txt";
+
+        costOfEdgeMarkedUndirectedWithNoReverse();
+        costAfterRemovingOneOfTwoParallelEdges();
+        costOfDirectedAndUndirectedEdges();
+
+        edgesWithNullData();
+        batchMatchesOneAtATime();
+        batchRemovesHalfOfAnUndirectedEdge();
+        batchRemovesNodeWithItsEdges();
+        batchRemovesAndAddsBackANode();
+        batchWithMissingNode();
+
+        searchMatchesQueue(input_file);
+        searchOnLargeGraph();
+        searchBadInputs();
+
+        hierarchyMatchesShortestPath(input_file);
+        hierarchyUnreachableAndSameNode();
+        hierarchySaveAndLoad(input_file);
+        hierarchyLoadRejectsOtherFiles();
+        System.out.println("all tests passed");
+    }
+
+    /**
+     * an edge added as undirected with no edge pointing back is counted at its full weight
+     */
+    private static void costOfEdgeMarkedUndirectedWithNoReverse() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        graph.addDirectedEdge(5, "a", "b", true);
+        check(graph.getCost(), 5, "cost of a lone edge marked undirected");
+        check(graph.getDirectedWeight(), 5, "directed weight of a lone edge marked undirected");
+        check(graph.getUndirectedWeight(), 0, "undirected weight of a lone edge marked undirected");
+
+        graph.batch().apply();
+        check(graph.getCost(), 5, "cost after an empty batch");
+    }
+
+    /**
+     * a->b twice and b->a once, then one a->b is removed, leaves one undirected pair
+     */
+    private static void costAfterRemovingOneOfTwoParallelEdges() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        graph.addDirectedEdge(5, "a", "b", false);
+        graph.addDirectedEdge(5, "a", "b", false);
+        graph.addDirectedEdge(5, "b", "a", false);
+        check(graph.getCost(), 10, "cost of a pair and an extra edge");
+
+        graph.removeDirectedEdge(5, "a", "b");
+        check(graph.getCost(), 5, "cost after removing the extra edge");
+        check(graph.getUndirectedWeight(), 5, "undirected weight after removing the extra edge");
+        check(graph.getEdgeCount(), 2, "edge count after removing the extra edge");
+
+        graph.batch().apply();
+        check(graph.getCost(), 5, "cost after an empty batch");
+        check(graph.getEdgeCount(), 2, "edge count after an empty batch");
+    }
+
+    /**
+     * directed edges count once, undirected edges count once per pair, and degrees follow the edges
+     */
+    private static void costOfDirectedAndUndirectedEdges() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        graph.addNode(true, "c");
+        graph.addUndirectedEdge(300, "a", "b");
+        graph.addDirectedEdge(7, "b", "c", false);
+        check(graph.getCost(), 307, "cost of an undirected and a directed edge");
+        check(graph.getInDegree("c"), 1, "in-degree of c");
+        check(graph.getOutDegree("b"), 2, "out-degree of b");
+
+        graph.removeNode("b");
+        check(graph.getCost(), 0, "cost after removing b");
+        check(graph.getEdgeCount(), 0, "edge count after removing b");
+        check(graph.getInDegree("c"), 0, "in-degree of c after removing b");
+    }
+
+    /**
+     * edges with no data pair up and come off the graph like any other edge, one at a time or in a batch
+     */
+    private static void edgesWithNullData() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        check(graph.addDirectedEdge(null, "a", "b", false), true, "add a->b with no data");
+        check(graph.addDirectedEdge(null, "b", "a", false), true, "add b->a with no data");
+        check(graph.toString(), batched(null).toString(), "edges with no data added one at a time vs in a batch");
+        check(graph.removeDirectedEdge(null, "a", "b"), true, "remove a->b with no data");
+        check(graph.getEdgeCount(), 1, "edge count after removing a->b");
+        check(graph.getCost(), 0, "cost of edges with no data");
+    }
+
+    /**
+     * adding edges in a batch pairs them up the same way as adding them one at a time (including an edge that pairs with one already there)
+     */
+    private static void batchMatchesOneAtATime() {
+        Graph<Boolean, Integer> single = threeNodes();
+        single.addDirectedEdge(2, "a", "b", false);
+        single.addDirectedEdge(2, "b", "a", false);
+        single.addDirectedEdge(3, "b", "c", false);
+        single.addDirectedEdge(4, "c", "a", false);
+        single.addDirectedEdge(5, "a", "c", false);
+        single.addDirectedEdge(1, "c", "c", false);
+        single.addDirectedEdge(1, "c", "c", false);
+
+        Graph<Boolean, Integer> batched = new Graph<>();
+        batched.batch()
+                .addNode(true, "a").addNode(true, "b").addNode(true, "c")
+                .addDirectedEdge(2, "a", "b").addDirectedEdge(2, "b", "a").addDirectedEdge(3, "b", "c")
+                .addDirectedEdge(4, "c", "a").addDirectedEdge(5, "a", "c")
+                .addDirectedEdge(1, "c", "c").addDirectedEdge(1, "c", "c")
+                .apply();
+        checkSame(batched, single, "edges added in a batch");
+        check(batched.toString(), single.toString(), "matrix of edges added in a batch");
+        check(batched.isUndirected(2, "a", "b"), true, "a->b pairs with b->a");
+        check(batched.isUndirected(5, "a", "c"), false, "a->c with different data than c->a");
+        check(batched.isUndirected(1, "c", "c"), true, "loop pairs with its copy");
+
+        //the edge pointing back is already in the graph
+        single.addDirectedEdge(3, "c", "b", false);
+        batched.batch().addDirectedEdge(3, "c", "b").apply();
+        checkSame(batched, single, "edge added in a batch that pairs with an existing edge");
+        check(batched.isUndirected(3, "b", "c"), true, "existing b->c pairs with the added c->b");
+    }
+
+    /**
+     * removing one edge of an undirected pair in a batch leaves the edge pointing back directed, like removeDirectedEdge
+     */
+    private static void batchRemovesHalfOfAnUndirectedEdge() {
+        Graph<Boolean, Integer> single = twoNodes();
+        single.addUndirectedEdge(2, "a", "b");
+        single.removeDirectedEdge(2, "a", "b");
+
+        Graph<Boolean, Integer> batched = twoNodes();
+        batched.addUndirectedEdge(2, "a", "b");
+        check(batched.batch().removeDirectedEdge(2, "a", "b").apply(), true, "remove half of an undirected edge");
+        checkSame(batched, single, "half of an undirected edge removed in a batch");
+        check(batched.isUndirected(2, "b", "a"), false, "b->a after a->b is removed");
+        check(batched.getCost(), 2, "cost after removing half of an undirected edge");
+    }
+
+    /**
+     * removing a node in a batch takes every edge pointing to or from it
+     */
+    private static void batchRemovesNodeWithItsEdges() {
+        Graph<Boolean, Integer> single = threeNodes();
+        single.addUndirectedEdge(2, "a", "b");
+        single.addDirectedEdge(3, "b", "c", false);
+        single.addUndirectedEdge(4, "c", "a");
+
+        Graph<Boolean, Integer> batched = threeNodes();
+        batched.batch().addUndirectedEdge(2, "a", "b").addDirectedEdge(3, "b", "c").addUndirectedEdge(4, "c", "a").apply();
+
+        single.removeNode("b");
+        check(batched.batch().removeNode("b").apply(), true, "remove b in a batch");
+        checkSame(batched, single, "b removed in a batch");
+        check(batched.getLabels(), "[a, c]", "nodes left after removing b");
+        check(batched.getEdgeCount(), 2, "edge count after removing b");
+        check(batched.getInDegree("c"), 1, "in-degree of c after removing b");
+        check(batched.isUndirected(4, "c", "a"), true, "c->a after removing b");
+    }
+
+    /**
+     * removing a node and adding it back in the same batch gives a new node with none of the old edges
+     */
+    private static void batchRemovesAndAddsBackANode() {
+        Graph<Boolean, Integer> graph = threeNodes();
+        graph.addUndirectedEdge(2, "a", "b");
+        graph.addDirectedEdge(4, "c", "a", false);
+
+        check(graph.batch().removeNode("b").addNode(false, "b").addDirectedEdge(7, "a", "b").apply(), true, "remove and add back b");
+        check(graph.getLabels(), "[a, c, b]", "nodes after adding back b");
+        check(graph.getEdgeCount(), 2, "edge count after adding back b");
+        check(graph.getCost(), 11, "cost after adding back b");
+        check(graph.getOutDegree("b"), 0, "out-degree of the new b");
+        check(graph.getInDegree("b"), 1, "in-degree of the new b");
+        check(graph.isUndirected(7, "a", "b"), false, "a->b to the new b");
+    }
+
+    /**
+     * a batch with an edge to a node that doesnt exist returns false but still applies everything else
+     */
+    private static void batchWithMissingNode() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        check(graph.batch().addDirectedEdge(1, "a", "z").addDirectedEdge(2, "a", "b").apply(), false, "edge to a missing node");
+        check(graph.getEdgeCount(), 1, "edge count after skipping the edge to a missing node");
+        check(graph.getCost(), 2, "cost after skipping the edge to a missing node");
+
+        check(graph.batch().addNode(true, "c").addDirectedEdge(3, "c", "z").apply(), false, "edge from a new node to a missing node");
+        check(graph.getLabels(), "[a, b, c]", "nodes after skipping the edge from c");
+        check(graph.getOutDegree("c"), 0, "out-degree of c after skipping its edge");
+        check(graph.batch().removeNode("z").apply(), false, "remove a missing node");
+    }
+
+    /**
+     * breadth first search, k hop neighborhoods and hop counts match a plain queue search on the sample input and a small dense graph
+     *
+     * @param input_file adjacency matrix to load
+     * @throws IOException if the file cant be read
+     */
+    private static void searchMatchesQueue(String input_file) throws IOException {
+        checkSearches(readMatrix(input_file), 3, "sample input");
+
+        //the first 10 nodes all point at each other and the other 20 hang off the end in a line (so the search goes bottom-up and back)
+        Graph<Boolean, Integer> dense = new Graph<>();
+        Graph<Boolean, Integer>.Batch batch = dense.batch();
+        for (int i = 0; i < 30; i++) {
+            batch.addNode(true, "n" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                if (i != j) batch.addDirectedEdge(1, "n" + i, "n" + j);
+            }
+        }
+        for (int i = 9; i < 29; i++) {
+            batch.addDirectedEdge(1, "n" + i, "n" + (i + 1));
+        }
+        batch.apply();
+        checkSearches(dense, 3, "dense graph");
+    }
+
+    /**
+     * a random graph big enough to be split across threads, where the middle levels are searched bottom-up
+     */
+    private static void searchOnLargeGraph() {
+        int n = 5000;
+        Random random = new Random(42);
+        Graph<Boolean, Integer> graph = new Graph<>();
+        Graph<Boolean, Integer>.Batch batch = graph.batch();
+        for (int i = 0; i < n; i++) {
+            batch.addNode(true, "n" + i);
+        }
+        for (int i = 0; i < 4 * n; i++) {
+            batch.addDirectedEdge(1, "n" + random.nextInt(n), "n" + random.nextInt(n));
+        }
+        batch.apply();
+        checkSearches(graph, 3, "large graph");
+    }
+
+    /**
+     * negative k and missing labels give nothing back, and a node is 0 hops from itself
+     */
+    private static void searchBadInputs() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        graph.addDirectedEdge(1, "a", "b", false);
+        check(graph.k_hop_neighborhood("a", -1), null, "k hop neighborhood with k < 0");
+        check(graph.k_hop_neighborhood("a", 0), "{a=0}", "k hop neighborhood with k = 0");
+        check(graph.k_hop_neighborhood("z", 1), null, "k hop neighborhood from a missing label");
+        check(graph.breadth_first_search("z"), null, "breadth first search from a missing label");
+        check(graph.hop_count("z", "a"), -1, "hop count from a missing label");
+        check(graph.hop_count("a", "z"), -1, "hop count to a missing label");
+        check(graph.hop_count("a", "a"), 0, "hop count from a node to itself");
+        check(graph.hop_count("b", "a"), -1, "hop count against the edge");
+    }
+
+    /**
+     * checks every search from a few nodes against a plain queue search
+     *
+     * @param graph   graph to search
+     * @param sources number of nodes to start from (spread out over the graph)
+     * @param name    what is being checked
+     */
+    private static void checkSearches(Graph<Boolean, Integer> graph, int sources, String name) {
+        ArrayList<String> labels = graph.getLabels();
+        for (int s = 0; s < sources; s++) {
+            String from = labels.get(s * labels.size() / sources);
+            HashMap<String, Integer> expected = queueSearch(graph, from, Integer.MAX_VALUE);
+            checkHops(graph.breadth_first_search(from), expected, name + ", breadth first search from " + from);
+            for (int k = 0; k <= 3; k++) {
+                checkHops(graph.k_hop_neighborhood(from, k), queueSearch(graph, from, k), name + ", " + k + " hop neighborhood of " + from);
+            }
+            for (int t = 0; t < sources; t++) {
+                String to = labels.get((t * labels.size() + labels.size() / 2) / sources % labels.size());
+                check(graph.hop_count(from, to), (int) expected.getOrDefault(to, -1), name + ", hop count from " + from + " to " + to);
+            }
+        }
+    }
+
+    /**
+     * throws an error if a search found different hops than it should have, or didnt put the closest nodes first
+     *
+     * @param actual   map returned by the search
+     * @param expected hops to every node that should have been reached
+     * @param name     what is being checked
+     */
+    private static void checkHops(LinkedHashMap<String, Integer> actual, HashMap<String, Integer> expected, String name) {
+        check(new TreeMap<>(actual), new TreeMap<>(expected), name);
+        int last = 0;
+        for (int hops : actual.values()) {
+            if (hops < last) throw new Error(name + ": " + actual + " isnt closest first");
+            last = hops;
+        }
+    }
+
+    /**
+     * breadth first search with a queue, to check the real one against
+     *
+     * @param graph graph to search
+     * @param from  label of node to start at
+     * @param k     most hops to go out
+     * @return map of each node within k hops and the number of hops to it
+     */
+    private static HashMap<String, Integer> queueSearch(Graph<Boolean, Integer> graph, String from, int k) {
+        HashMap<String, Integer> rtn = new HashMap<>();
+        ArrayDeque<String> queue = new ArrayDeque<>();
+        rtn.put(from, 0);
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            String curr = queue.poll();
+            int hops = rtn.get(curr);
+            if (hops == k) continue;
+            for (String next : graph.getNumericEdges(curr).keySet()) {
+                if (!rtn.containsKey(next)) {
+                    rtn.put(next, hops + 1);
+                    queue.add(next);
+                }
+            }
+        }
+        return rtn;
+    }
+
+    /**
+     * the index finds the same path as Graph.shortest_path on the sample input, with the same weight after each label
+     *
+     * @param input_file adjacency matrix to load
+     * @throws IOException if the file cant be read
+     */
+    private static void hierarchyMatchesShortestPath(String input_file) throws IOException {
+        Graph<Boolean, Integer> graph = readMatrix(input_file);
+        ContractionHierarchy index = new ContractionHierarchy(graph);
+        check(index.shortest_path("a", "f"), graph.shortest_path(), "path from a to f");
+    }
+
+    /**
+     * no path gives null (so does a missing label), and a node to itself is just that node
+     */
+    private static void hierarchyUnreachableAndSameNode() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        graph.addNode(true, "c");
+        graph.addDirectedEdge(4, "a", "b", false);
+        ContractionHierarchy index = new ContractionHierarchy(graph);
+
+        check(index.shortest_path("b", "a"), null, "path against the edge");
+        check(index.shortest_path("a", "c"), null, "path to a node with no edges");
+        check(index.shortest_path("a", "z"), null, "path to a missing label");
+        check(index.shortest_path("a", "a"), "{a=0}", "path from a node to itself");
+        check(index.shortest_path("a", "b"), "{a=4, b=0}", "path along the edge");
+    }
+
+    /**
+     * a saved index gives the same answers once its loaded, and weights load() cant read are turned down by save()
+     *
+     * @param input_file adjacency matrix to load
+     * @throws IOException if the file cant be read or a temp file cant be used
+     */
+    private static void hierarchySaveAndLoad(String input_file) throws IOException {
+        Graph<Boolean, Integer> graph = readMatrix(input_file);
+        ContractionHierarchy index = new ContractionHierarchy(graph);
+        File file = tempFile();
+        index.save(file);
+        ContractionHierarchy loaded = ContractionHierarchy.load(file);
+        for (String from : graph.getLabels()) {
+            for (String to : graph.getLabels()) {
+                check(loaded.shortest_path(from, to), index.shortest_path(from, to), "loaded path from " + from + " to " + to);
+            }
+        }
+
+        Graph<Boolean, BigDecimal> decimals = new Graph<>();
+        decimals.addNode(true, "a");
+        decimals.addNode(true, "b");
+        decimals.addDirectedEdge(new BigDecimal("1.5"), "a", "b", false);
+        new ContractionHierarchy(decimals).save(file);
+        check(ContractionHierarchy.load(file).shortest_path("a", "b"), "{a=1.5, b=0}", "loaded path with a BigDecimal weight");
+
+        Graph<Boolean, Weight> custom = new Graph<>();
+        custom.addNode(true, "a");
+        custom.addNode(true, "b");
+        custom.addDirectedEdge(new Weight(2), "a", "b", false);
+        boolean saved = true;
+        try {
+            new ContractionHierarchy(custom).save(file);
+        } catch (NotSerializableException e) {
+            saved = false;
+        }
+        check(saved, false, "save with a weight type load() cant read");
+    }
+
+    /**
+     * files that arent an index (another object, or not even an object stream) cant be loaded
+     *
+     * @throws IOException if a temp file cant be used
+     */
+    private static void hierarchyLoadRejectsOtherFiles() throws IOException {
+        File file = tempFile();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(new ArrayList<String>());
+        }
+        check(loads(file), false, "load of a saved list");
+
+        try (FileWriter out = new FileWriter(file)) {
+            out.write("not an index");
+        }
+        check(loads(file), false, "load of a text file");
+    }
+
+    /**
+     * tries to load an index from a file
+     *
+     * @param file file to read from
+     * @return true if it loaded, false if load() threw an IOException
+     */
+    private static boolean loads(File file) {
+        try {
+            ContractionHierarchy.load(file);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * reads an adjacency matrix into a graph the same way Main does (nodes are "a", "b", ... and each digit above 0 is an edge)
+     *
+     * @param input_file text file with one row of digits per node
+     * @return new graph
+     * @throws IOException if the file cant be read
+     */
+    private static Graph<Boolean, Integer> readMatrix(String input_file) throws IOException {
+        ArrayList<String> rows = new ArrayList<>();
+        try (Scanner sc = new Scanner(new File(input_file))) {
+            while (sc.hasNextLine()) {
+                rows.add(sc.nextLine().replaceAll("[^0-9]", ""));
+            }
+        }
+
+        Graph<Boolean, Integer> graph = new Graph<>();
+        for (int row = 0; row < rows.size(); row++) {
+            graph.addNode(true, Character.toString((char) ('a' + row)));
+        }
+        for (int row = 0; row < rows.size(); row++) {
+            for (int col = 0; col < rows.get(row).length(); col++) {
+                int weight = rows.get(row).charAt(col) - '0';
+                if (weight > 0) graph.addDirectedEdge(weight, Character.toString((char) ('a' + row)), Character.toString((char) ('a' + col)), false);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * makes a temp file thats deleted when the tests finish
+     *
+     * @return new empty file
+     * @throws IOException if it cant be made
+     */
+    private static File tempFile() throws IOException {
+        File rtn = File.createTempFile("graph-test", ".bin");
+        rtn.deleteOnExit();
+        return rtn;
+    }
+
+    /**
+     * makes a graph with nodes "a" and "b" and an edge both ways between them, all in one batch
+     *
+     * @param data data for both edges
+     * @return new graph
+     */
+    private static Graph<Boolean, Integer> batched(Integer data) {
+        Graph<Boolean, Integer> graph = new Graph<>();
+        graph.batch().addNode(true, "a").addNode(true, "b").addDirectedEdge(data, "a", "b").addDirectedEdge(data, "b", "a").apply();
+        return graph;
+    }
+
+    /**
+     * throws an error if 2 graphs dont have the same nodes, edges, totals and directions
+     *
+     * @param actual   graph that was made
+     * @param expected graph it should match
+     * @param name     what is being checked
+     */
+    private static void checkSame(Graph<Boolean, Integer> actual, Graph<Boolean, Integer> expected, String name) {
+        check(actual.getLabels(), expected.getLabels(), name + ", nodes");
+        check(actual.getEdgeCount(), expected.getEdgeCount(), name + ", edge count");
+        check(actual.getCost(), expected.getCost(), name + ", cost");
+        check(actual.getUndirectedWeight(), expected.getUndirectedWeight(), name + ", undirected weight");
+        for (String from : expected.getLabels()) {
+            check(actual.getNumericEdges(from), expected.getNumericEdges(from), name + ", edges from " + from);
+            check(actual.getInDegree(from), expected.getInDegree(from), name + ", in-degree of " + from);
+            for (Map.Entry<String, Number> edge : expected.getNumericEdges(from).entrySet()) {
+                int data = edge.getValue().intValue();
+                check(actual.isUndirected(data, from, edge.getKey()), expected.isUndirected(data, from, edge.getKey()), name + ", direction of " + from + "->" + edge.getKey());
+            }
+        }
+    }
+
+    /**
+     * makes a graph with nodes "a", "b" and "c"
+     *
+     * @return new graph
+     */
+    private static Graph<Boolean, Integer> threeNodes() {
+        Graph<Boolean, Integer> graph = twoNodes();
+        graph.addNode(true, "c");
+        return graph;
+    }
+
+    /**
+     * makes a graph with nodes "a" and "b"
+     *
+     * @return new graph
+     */
+    private static Graph<Boolean, Integer> twoNodes() {
+        Graph<Boolean, Integer> graph = new Graph<>();
+        graph.addNode(true, "a");
+        graph.addNode(true, "b");
+        return graph;
+    }
+
+    /**
+     * throws an error if a value isnt what it should be
+     *
+     * @param actual   value that was returned
+     * @param expected value that should have been returned
+     * @param name     what is being checked
+     */
+    private static void check(double actual, double expected, String name) {
+        if (actual != expected) throw new Error(name + ": expected " + expected + " but was " + actual);
+    }
+
+    /**
+     * throws an error if an object doesnt print the same as it should (so maps are checked in order)
+     *
+     * @param actual   value that was returned
+     * @param expected value that should have been returned (null if nothing should be)
+     * @param name     what is being checked
+     */
+    private static void check(Object actual, Object expected, String name) {
+        if (!String.valueOf(actual).equals(String.valueOf(expected))) throw new Error(name + ": expected " + expected + " but was " + actual);
+    }
+
+    /**
+     * number type that isnt one of the weights an index can be saved with
+     */
+    private static class Weight extends Number implements Comparable<Weight> {
+        private static final long serialVersionUID = 1L;
+
+        private int value;
+
+        /**
+         * constructs a new weight
+         *
+         * @param value amount
+         */
+        public Weight(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int intValue() {
+            return value;
+        }
+
+        @Override
+        public long longValue() {
+            return value;
+        }
+
+        @Override
+        public float floatValue() {
+            return value;
+        }
+
+        @Override
+        public double doubleValue() {
+            return value;
+        }
+
+        @Override
+        public int compareTo(Weight other) {
+            return Integer.compare(value, other.value);
+        }
+    }
+}